@@ -0,0 +1,27 @@
+package com.example.scoreboard;
+
+/**
+ * Counters describing how score updates submitted to the scoreboard were handled.
+ *
+ * @param receivedUpdates  number of score updates accepted by {@link Scoreboard#updateScore}.
+ * @param appliedUpdates   number of updates that resulted in a repository write.
+ * @param coalescedUpdates number of updates superseded by a later update for the same match before being applied.
+ * @param unchangedUpdates number of updates skipped because they carried the score already on the board.
+ * @param staleUpdates     number of sequenced updates and finishes rejected as stale or duplicate.
+ */
+public record CoalescingStats(long receivedUpdates,
+                              long appliedUpdates,
+                              long coalescedUpdates,
+                              long unchangedUpdates,
+                              long staleUpdates
+) {
+
+    /**
+     * Returns the number of updates that never reached the repository.
+     *
+     * @return the sum of coalesced and unchanged updates.
+     */
+    public long absorbedUpdates() {
+        return coalescedUpdates + unchangedUpdates;
+    }
+}
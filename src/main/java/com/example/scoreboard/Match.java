@@ -1,5 +1,7 @@
 package com.example.scoreboard;
 
+import java.util.Comparator;
+
 record Match(String homeTeam,
              String awayTeam,
              int homeScore,
@@ -7,6 +9,24 @@ record Match(String homeTeam,
              long insertionOrder
 ) implements MatchSnapshot {
 
+    // Descending total score, then most recently started first.
+    static final Comparator<Match> SUMMARY_ORDER = Comparator
+            .comparingInt(Match::totalScore).reversed()
+            .thenComparing(Match::insertionOrder, Comparator.reverseOrder());
+
+    int totalScore() {
+        return homeScore + awayScore;
+    }
+
+    boolean isBetween(String team1, String team2) {
+        return isPairing(homeTeam, awayTeam, team1, team2);
+    }
+
+    static boolean isPairing(String homeTeam, String awayTeam, String team1, String team2) {
+        return (homeTeam.equals(team1) && awayTeam.equals(team2))
+                || (homeTeam.equals(team2) && awayTeam.equals(team1));
+    }
+
     @Override
     public String toString() {
         return "Match[homeTeam=" + homeTeam
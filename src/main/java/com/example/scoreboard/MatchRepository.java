@@ -4,16 +4,55 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * Stores live matches and a bounded history of past board versions.
+ * <p>
+ * Writers are serialized; every effective write publishes a new immutable {@link PersistentMatchIndex} under the
+ * next version number. Readers of the current board and of historical versions never take the lock. Versions older
+ * than the retention horizon are evicted a few at a time on subsequent writes.
+ * <p>
+ * Board-wide aggregates are maintained from score deltas on each write and published with the version, so reading
+ * them is a single volatile read. A team's goals are looked up through a team index that only points into the
+ * published version; a match missing from that version counts as not being played.
+ * <p>
+ * Each live match also carries the highest sequence number accepted for it. It can be checked without the lock or
+ * any allocation, so stale and duplicate sequenced events are dropped before reaching the write path. When a match
+ * finishes, its record stays behind as a tombstone with the final sequence number until its teams start new matches,
+ * so late and redelivered events for the finished match are rejected the same way.
+ */
 class MatchRepository {
 
+    static final int DEFAULT_RETAINED_VERSIONS = 1024;
+    static final long NO_SEQUENCE = -1;
+    private static final int EVICTIONS_PER_WRITE = 2;
+
     private static final Logger logger = Logger.getLogger(MatchRepository.class.getName());
     private final Map<String, Match> matches = new HashMap<>();
     private final Set<String> activeTeams = new HashSet<>();
+    private final NavigableMap<Long, PersistentMatchIndex> history = new ConcurrentSkipListMap<>();
+    private final NavigableSet<Match> ranking = new TreeSet<>(Match.SUMMARY_ORDER);
+    // Keyed by both teams of a match, so lookups use the caller's strings as they are. Finished matches stay as
+    // tombstones until a team's entry is overwritten by its next match.
+    private final Map<String, MatchSequence> sequences = new ConcurrentHashMap<>();
+    // Insertion order of each team's latest match. Entries are only overwritten, never removed, so a lookup is
+    // always checked against a published version instead of trusting the entry.
+    private final Map<String, Long> teamMatches = new ConcurrentHashMap<>();
     private long nextInsertionOrder = 0;
+    private volatile BoardVersion head = new BoardVersion(0, PersistentMatchIndex.EMPTY, 0, null);
+    private volatile int retainedVersions = DEFAULT_RETAINED_VERSIONS;
+
+    MatchRepository() {
+        history.put(head.version(), head.matches());
+    }
 
     synchronized void addMatch(String homeTeam, String awayTeam, int homeScore, int awayScore) {
         if (isTeamInMatch(homeTeam) || isTeamInMatch(awayTeam)) {
@@ -28,6 +67,13 @@ class MatchRepository {
         } else {
             activeTeams.add(homeTeam);
             activeTeams.add(awayTeam);
+            ranking.add(newMatch);
+            teamMatches.put(homeTeam, newMatch.insertionOrder());
+            teamMatches.put(awayTeam, newMatch.insertionOrder());
+            MatchSequence sequence = new MatchSequence(homeTeam, awayTeam);
+            sequences.put(homeTeam, sequence);
+            sequences.put(awayTeam, sequence);
+            publish(head.matches().with(newMatch), newMatch.totalScore());
         }
     }
 
@@ -35,11 +81,101 @@ class MatchRepository {
         return activeTeams.contains(team);
     }
 
-    synchronized List<Match> getAllMatches() {
-        return List.copyOf(matches.values());
+    List<Match> getAllMatches() {
+        return head.matches().values();
+    }
+
+    long getCurrentVersion() {
+        return head.version();
+    }
+
+    long getTotalGoals() {
+        return head.totalGoals();
+    }
+
+    int getMatchCount() {
+        return head.matches().size();
     }
 
-    synchronized void updateMatchScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+    Match getLeader() {
+        return head.leader();
+    }
+
+    int getTeamGoals(String team) {
+        Match match = liveMatchOf(team);
+        if (match == null) {
+            return 0;
+        }
+        return team.equals(match.homeTeam()) ? match.homeScore() : match.awayScore();
+    }
+
+    List<Match> getMatchesAt(long version) {
+        PersistentMatchIndex snapshot = history.get(version);
+        if (snapshot == null) {
+            logger.log(Level.WARNING, "Attempted to read unavailable version: {0} (current: {1})",
+                    new Object[]{version, head.version()});
+            throw new IllegalArgumentException("Version not available.");
+        }
+        return snapshot.values();
+    }
+
+    void setRetainedVersions(int retainedVersions) {
+        this.retainedVersions = retainedVersions;
+    }
+
+    boolean isStale(String homeTeam, String awayTeam, long sequence) {
+        MatchSequence current = sequenceOf(homeTeam, awayTeam);
+        return current != null && sequence <= current.lastAccepted;
+    }
+
+    /**
+     * Records a sequence number for a live match if it is newer than the last one accepted.
+     * Callers must serialize calls for the same match with its {@link #addMatch} and {@link #removeMatch}; unknown
+     * and finished matches are accepted without recording anything so that the subsequent write reports them
+     * as usual.
+     *
+     * @return {@code false} if the sequence number is stale or a duplicate.
+     */
+    boolean advanceSequence(String homeTeam, String awayTeam, long sequence) {
+        MatchSequence current = sequenceOf(homeTeam, awayTeam);
+        if (current == null) {
+            return true;
+        }
+        if (sequence <= current.lastAccepted) {
+            return false;
+        }
+        if (!current.finished) {
+            current.lastAccepted = sequence;
+        }
+        return true;
+    }
+
+    // The home team's entry may already belong to its next match while the away team's still holds the tombstone.
+    private MatchSequence sequenceOf(String homeTeam, String awayTeam) {
+        MatchSequence current = sequences.get(homeTeam);
+        if (current == null || !current.isBetween(homeTeam, awayTeam)) {
+            current = sequences.get(awayTeam);
+        }
+        return current != null && current.isBetween(homeTeam, awayTeam) ? current : null;
+    }
+
+    Match findMatch(String homeTeam, String awayTeam) {
+        Match match = liveMatchOf(homeTeam);
+        return match != null && match.isBetween(homeTeam, awayTeam) ? match : null;
+    }
+
+    private Match liveMatchOf(String team) {
+        BoardVersion current = head;
+        Long insertionOrder = teamMatches.get(team);
+        return insertionOrder == null ? null : current.matches().get(insertionOrder);
+    }
+
+    /**
+     * Replaces the score of an existing match.
+     *
+     * @return {@code false} if the match already had exactly this score and nothing was written.
+     */
+    synchronized boolean updateMatchScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
         String key = generateKey(homeTeam, awayTeam);
         Match existing = matches.get(key);
         if (existing == null) {
@@ -47,25 +183,68 @@ class MatchRepository {
                     new Object[]{homeTeam, awayTeam, key});
             throw new IllegalArgumentException("Match not found.");
         }
+        if (existing.homeScore() == homeScore && existing.awayScore() == awayScore) {
+            return false;
+        }
         Match updated = new Match(existing.homeTeam(), existing.awayTeam(), homeScore, awayScore, existing.insertionOrder());
         matches.put(key, updated);
+        ranking.remove(existing);
+        ranking.add(updated);
+        publish(head.matches().with(updated), updated.totalScore() - existing.totalScore());
+        return true;
     }
 
-    synchronized void removeMatch(String homeTeam, String awayTeam) {
+    synchronized boolean removeMatch(String homeTeam, String awayTeam) {
         String key = generateKey(homeTeam, awayTeam);
         Match removed = matches.remove(key);
         if (removed == null) {
             logger.log(Level.WARNING, "Attempted to remove a non-existent match: {0} vs. {1} (key: {2})",
                     new Object[]{homeTeam, awayTeam, key});
+            return false;
         } else {
             activeTeams.remove(homeTeam);
             activeTeams.remove(awayTeam);
+            ranking.remove(removed);
+            sequences.get(removed.homeTeam()).finished = true;
+            publish(head.matches().without(removed.insertionOrder()), -removed.totalScore());
+            return true;
         }
     }
 
-    private String generateKey(String team1, String team2) {
+    // Called with the lock held; the version is made readable in history before it becomes the head.
+    private void publish(PersistentMatchIndex next, int goalDelta) {
+        BoardVersion version = new BoardVersion(head.version() + 1, next, head.totalGoals() + goalDelta,
+                ranking.isEmpty() ? null : ranking.first());
+        history.put(version.version(), next);
+        head = version;
+        long oldestRetained = version.version() - retainedVersions + 1;
+        for (int i = 0; i < EVICTIONS_PER_WRITE && history.firstKey() < oldestRetained; i++) {
+            history.pollFirstEntry();
+        }
+    }
+
+    static String generateKey(String team1, String team2) {
         return (team1.compareTo(team2) <= 0)
                 ? team1 + "_" + team2
                 : team2 + "_" + team1;
     }
+
+    private static final class MatchSequence {
+        private final String homeTeam;
+        private final String awayTeam;
+        private volatile long lastAccepted = NO_SEQUENCE;
+        private volatile boolean finished = false;
+
+        private MatchSequence(String homeTeam, String awayTeam) {
+            this.homeTeam = homeTeam;
+            this.awayTeam = awayTeam;
+        }
+
+        private boolean isBetween(String team1, String team2) {
+            return Match.isPairing(homeTeam, awayTeam, team1, team2);
+        }
+    }
+
+    private record BoardVersion(long version, PersistentMatchIndex matches, long totalGoals, Match leader) {
+    }
 }
@@ -0,0 +1,121 @@
+package com.example.scoreboard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable trie of matches indexed by their insertion order.
+ * <p>
+ * Every modification copies only the nodes on the path to the changed slot and shares the rest with the previous
+ * instance, so keeping many versions of the board costs O(log n) memory per change rather than a full copy.
+ * Subtrees that become empty are pruned.
+ */
+final class PersistentMatchIndex {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    static final PersistentMatchIndex EMPTY = new PersistentMatchIndex(null, 0, 0);
+
+    private final Object[] root;
+    private final int shift;
+    private final int size;
+
+    private PersistentMatchIndex(Object[] root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Match get(long index) {
+        if (index < 0 || index >= capacity(shift)) {
+            return null;
+        }
+        Object[] node = root;
+        for (int level = shift; node != null; level -= BITS) {
+            Object slot = node[slot(index, level)];
+            if (level == 0) {
+                return (Match) slot;
+            }
+            node = (Object[]) slot;
+        }
+        return null;
+    }
+
+    PersistentMatchIndex with(Match match) {
+        long index = match.insertionOrder();
+        Object[] newRoot = root;
+        int newShift = shift;
+        while (index >= capacity(newShift)) {
+            if (newRoot != null) {
+                Object[] grown = new Object[WIDTH];
+                grown[0] = newRoot;
+                newRoot = grown;
+            }
+            newShift += BITS;
+        }
+        int newSize = get(index) == null ? size + 1 : size;
+        return new PersistentMatchIndex(set(newRoot, newShift, index, match), newShift, newSize);
+    }
+
+    PersistentMatchIndex without(long index) {
+        if (get(index) == null) {
+            return this;
+        }
+        return new PersistentMatchIndex(clear(root, shift, index), shift, size - 1);
+    }
+
+    List<Match> values() {
+        List<Match> values = new ArrayList<>(size);
+        collect(root, shift, values);
+        return Collections.unmodifiableList(values);
+    }
+
+    private static long capacity(int shift) {
+        return 1L << (shift + BITS);
+    }
+
+    private static int slot(long index, int level) {
+        return (int) (index >>> level) & MASK;
+    }
+
+    private static Object[] set(Object[] node, int level, long index, Match match) {
+        Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+        int slot = slot(index, level);
+        copy[slot] = level == 0 ? match : set((Object[]) copy[slot], level - BITS, index, match);
+        return copy;
+    }
+
+    private static Object[] clear(Object[] node, int level, long index) {
+        int slot = slot(index, level);
+        Object[] copy = node.clone();
+        copy[slot] = level == 0 ? null : clear((Object[]) node[slot], level - BITS, index);
+        for (Object child : copy) {
+            if (child != null) {
+                return copy;
+            }
+        }
+        return null;
+    }
+
+    private static void collect(Object[] node, int level, List<Match> values) {
+        if (node == null) {
+            return;
+        }
+        for (Object child : node) {
+            if (level == 0) {
+                if (child != null) {
+                    values.add((Match) child);
+                }
+            } else {
+                collect((Object[]) child, level - BITS, values);
+            }
+        }
+    }
+}
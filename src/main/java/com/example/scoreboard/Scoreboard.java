@@ -1,7 +1,9 @@
 package com.example.scoreboard;
 
-import java.util.Comparator;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
 
 /**
  * Public thread-safe API for managing live matches on the scoreboard.
@@ -10,9 +12,16 @@ public final class Scoreboard {
 
     private final MatchRepository repository = new MatchRepository();
     private final ScoreboardValidator validator = new ScoreboardValidator();
+    private final UpdateCoalescer coalescer;
 
     // Package-private constructor: production code in other packages must use getInstance()
     Scoreboard() {
+        this(System::nanoTime);
+    }
+
+    // Lets tests drive coalescing windows with a fake clock.
+    Scoreboard(LongSupplier nanoClock) {
+        this.coalescer = new UpdateCoalescer(repository, nanoClock);
     }
 
     // Holder for lazy, thread-safe singleton initialization.
@@ -40,11 +49,14 @@ public final class Scoreboard {
      */
     public void startMatch(String homeTeam, String awayTeam) {
         validator.validateNewMatch(homeTeam, awayTeam);
-        repository.addMatch(homeTeam, awayTeam, 0, 0);
+        coalescer.add(homeTeam, awayTeam, 0, 0);
     }
 
     /**
      * Updates the score for an ongoing match (identified by homeTeam and awayTeam).
+     * An update carrying the score already on the board does not write anything. When coalescing is enabled,
+     * the update may be held back and superseded by a later update for the same match, see
+     * {@link #setCoalescingWindow(Duration)}.
      *
      * @param homeTeam  the home team name; must match an existing match.
      * @param awayTeam  the away team name; must match an existing match.
@@ -54,31 +66,185 @@ public final class Scoreboard {
      */
     public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
         validator.validateScore(homeScore, awayScore);
-        repository.updateMatchScore(homeTeam, awayTeam, homeScore, awayScore);
+        coalescer.submit(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    /**
+     * Updates the score for an ongoing match unless a newer or equal sequence number was already accepted for it.
+     * Intended for at-least-once feeds that may redeliver or reorder events: stale and duplicate events are
+     * rejected without locking, so they can be submitted from many consumers in parallel. Events arriving after the
+     * match was finished with a newer sequence number are rejected the same way.
+     *
+     * @param homeTeam  the home team name; must match an existing match.
+     * @param awayTeam  the away team name; must match an existing match.
+     * @param homeScore the new score for the home team; must be non-negative.
+     * @param awayScore the new score for the away team; must be non-negative.
+     * @param sequence  the per-match sequence number of the event; must be non-negative.
+     * @return {@code true} if the update was accepted, {@code false} if it was stale or a duplicate.
+     * @throws IllegalArgumentException if the match is not found, or if any score or the sequence is negative.
+     */
+    public boolean updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        validator.validateScore(homeScore, awayScore);
+        validator.validateSequence(sequence);
+        return coalescer.submit(homeTeam, awayTeam, homeScore, awayScore, sequence);
     }
 
     /**
      * Finishes a match (removes it) from the scoreboard, identified by homeTeam and awayTeam.
+     * Any score update still pending for the match is discarded.
      *
      * @param homeTeam the home team name; must match an existing match.
      * @param awayTeam the away team name; must match an existing match.
      */
     public void finishMatch(String homeTeam, String awayTeam) {
-        repository.removeMatch(homeTeam, awayTeam);
+        coalescer.remove(homeTeam, awayTeam);
+    }
+
+    /**
+     * Finishes a match unless a newer or equal sequence number was already accepted for it, which also rejects a
+     * redelivered finish.
+     * Any score update still pending for the match is discarded.
+     *
+     * @param homeTeam the home team name; must match an existing match.
+     * @param awayTeam the away team name; must match an existing match.
+     * @param sequence the per-match sequence number of the event; must be non-negative.
+     * @return {@code true} if the match was finished, {@code false} if the event was stale or the match was not found.
+     * @throws IllegalArgumentException if the sequence is negative.
+     */
+    public boolean finishMatch(String homeTeam, String awayTeam, long sequence) {
+        validator.validateSequence(sequence);
+        return coalescer.remove(homeTeam, awayTeam, sequence);
     }
 
     /**
      * Returns an immutable summary of the current matches, ordered by the total score in descending order.
      * Matches with the same total score are ordered by recency (the match that was started later appears first).
+     * Pending coalesced updates are applied before the summary is built.
      *
      * @return an unmodifiable list of match snapshots, ordered by total score and recency.
      */
     public List<MatchSnapshot> getSummary() {
-        List<Match> matches = repository.getAllMatches();
+        coalescer.flush();
+        return summarize(repository.getAllMatches());
+    }
+
+    /**
+     * Returns the summary of the board as it was at the given version, ordered like {@link #getSummary()}.
+     * Reading a past version does not block live updates. Pending coalesced updates whose window has elapsed are
+     * applied first.
+     *
+     * @param version a board version, as returned by {@link #getVersion()}; must still be retained.
+     * @return an unmodifiable list of match snapshots at that version, ordered by total score and recency.
+     * @throws IllegalArgumentException if the version is in the future or has been discarded.
+     */
+    public List<MatchSnapshot> getSummaryAt(long version) {
+        coalescer.applyExpired();
+        return summarize(repository.getMatchesAt(version));
+    }
+
+    /**
+     * Returns the current board version. The version is incremented by every change that reaches the board;
+     * pending coalesced updates whose window has elapsed are applied first.
+     *
+     * @return the current board version, starting at 0 for an empty board.
+     */
+    public long getVersion() {
+        coalescer.applyExpired();
+        return repository.getCurrentVersion();
+    }
+
+    /**
+     * Sets how many of the most recent board versions remain available to {@link #getSummaryAt(long)}.
+     * Older versions are discarded gradually as new changes are made.
+     *
+     * @param versions the number of versions to retain, including the current one; must be at least 1.
+     * @throws IllegalArgumentException if versions is less than 1.
+     */
+    public void setRetainedVersions(int versions) {
+        validator.validateRetainedVersions(versions);
+        repository.setRetainedVersions(versions);
+    }
+
+    /**
+     * Returns the total number of goals across all matches currently on the board.
+     * Pending coalesced updates whose window has elapsed are applied first.
+     *
+     * @return the sum of home and away scores of all ongoing matches.
+     */
+    public long getTotalGoals() {
+        coalescer.applyExpired();
+        return repository.getTotalGoals();
+    }
+
+    /**
+     * Returns the number of matches currently on the board.
+     *
+     * @return the number of ongoing matches.
+     */
+    public int getMatchesInProgress() {
+        return repository.getMatchCount();
+    }
+
+    /**
+     * Returns the match that would head the summary: the highest total score, most recently started on ties.
+     * Pending coalesced updates whose window has elapsed are applied first.
+     *
+     * @return the highest-scoring ongoing match, or an empty optional if the board is empty.
+     */
+    public Optional<MatchSnapshot> getHighestScoringMatch() {
+        coalescer.applyExpired();
+        return Optional.ofNullable(repository.getLeader());
+    }
+
+    /**
+     * Returns the goals scored by a team in its ongoing match.
+     * Pending coalesced updates whose window has elapsed are applied first.
+     *
+     * @param team the team name; must not be null or blank.
+     * @return the team's current score, or 0 if the team is not in a match.
+     * @throws IllegalArgumentException if the team name is null or blank.
+     */
+    public int getTeamGoals(String team) {
+        validator.validateTeam(team);
+        coalescer.applyExpired();
+        return repository.getTeamGoals(team);
+    }
+
+    /**
+     * Enables or disables per-match update coalescing. Updates to the same match received within the window
+     * collapse into the last one, which is applied once. There is no timer: once the window has elapsed, the pending
+     * score is applied by the next update for the same match, or by the next read of the board's scores or version
+     * ({@link #getTotalGoals()}, {@link #getHighestScoringMatch()}, {@link #getTeamGoals(String)},
+     * {@link #getVersion()}, {@link #getSummaryAt(long)}). {@link #getSummary()} and {@link #flushPendingUpdates()}
+     * apply pending updates even before their window has elapsed. Changing the window applies all pending updates.
+     *
+     * @param window the coalescing window; {@link Duration#ZERO} disables coalescing.
+     * @throws IllegalArgumentException if the window is null or negative.
+     */
+    public void setCoalescingWindow(Duration window) {
+        validator.validateCoalescingWindow(window);
+        coalescer.setWindowNanos(window.toNanos());
+    }
+
+    /**
+     * Applies all pending coalesced updates immediately.
+     */
+    public void flushPendingUpdates() {
+        coalescer.flush();
+    }
+
+    /**
+     * Returns counters describing how many score updates were applied and how many were absorbed.
+     *
+     * @return a snapshot of the update counters.
+     */
+    public CoalescingStats getCoalescingStats() {
+        return coalescer.stats();
+    }
+
+    private static List<MatchSnapshot> summarize(List<Match> matches) {
         return matches.parallelStream()
-                .sorted(Comparator
-                        .comparingInt((Match m) -> m.homeScore() + m.awayScore()).reversed()
-                        .thenComparing(Match::insertionOrder, Comparator.reverseOrder()))
+                .sorted(Match.SUMMARY_ORDER)
                 .map(MatchSnapshot.class::cast)
                 .toList();
     }
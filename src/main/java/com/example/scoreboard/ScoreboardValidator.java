@@ -1,5 +1,7 @@
 package com.example.scoreboard;
 
+import java.time.Duration;
+
 class ScoreboardValidator {
 
     void validateNewMatch(String homeTeam, String awayTeam) {
@@ -14,9 +16,33 @@ class ScoreboardValidator {
         }
     }
 
+    void validateTeam(String team) {
+        if (team == null || team.isBlank()) {
+            throw new IllegalArgumentException("Team name cannot be empty.");
+        }
+    }
+
     void validateScore(int homeScore, int awayScore) {
         if (homeScore < 0 || awayScore < 0) {
             throw new IllegalArgumentException("Scores must be non-negative.");
         }
     }
+
+    void validateCoalescingWindow(Duration window) {
+        if (window == null || window.isNegative()) {
+            throw new IllegalArgumentException("Coalescing window must be non-negative.");
+        }
+    }
+
+    void validateRetainedVersions(int retainedVersions) {
+        if (retainedVersions < 1) {
+            throw new IllegalArgumentException("At least one version must be retained.");
+        }
+    }
+
+    void validateSequence(long sequence) {
+        if (sequence < 0) {
+            throw new IllegalArgumentException("Sequence number must be non-negative.");
+        }
+    }
 }
@@ -0,0 +1,201 @@
+package com.example.scoreboard;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Collapses bursts of score updates for the same match into a single repository write.
+ * <p>
+ * While the coalescing window is zero every update is applied immediately. Otherwise the first update for a match
+ * opens a window; updates arriving within it replace the queued score (last write wins) and the queued score is
+ * applied by the first update for the match after the window has elapsed, by {@link #applyExpired()}, or when
+ * {@link #flush()} is called. Nothing applies expired entries on a timer; readers call {@link #applyExpired()}, which
+ * costs a single emptiness check while nothing is pending.
+ * Starting, updating and finishing a given match are all serialized through its entry in the pending map, so a
+ * queued score can never be applied after a newer one or after the match has been finished.
+ * <p>
+ * Sequenced operations are first checked against the match's last accepted sequence number without locking; events
+ * that pass are accepted or rejected for good inside the per-match serialization. Because the match and its sequence
+ * record are created inside the same serialization, a sequenced event racing {@link #add} either fails as an unknown
+ * match or has its sequence number recorded.
+ */
+class UpdateCoalescer {
+
+    private final MatchRepository repository;
+    private final LongSupplier nanoClock;
+    private final Map<String, PendingUpdate> pending = new ConcurrentHashMap<>();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder unchanged = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+    private volatile long windowNanos = 0;
+
+    UpdateCoalescer(MatchRepository repository, LongSupplier nanoClock) {
+        this.repository = repository;
+        this.nanoClock = nanoClock;
+    }
+
+    void setWindowNanos(long windowNanos) {
+        this.windowNanos = windowNanos;
+        flush();
+    }
+
+    void add(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        pending.compute(MatchRepository.generateKey(homeTeam, awayTeam), (key, queued) -> {
+            repository.addMatch(homeTeam, awayTeam, homeScore, awayScore);
+            return queued;
+        });
+    }
+
+    void submit(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        submit(homeTeam, awayTeam, homeScore, awayScore, MatchRepository.NO_SEQUENCE);
+    }
+
+    boolean submit(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        if (isStale(homeTeam, awayTeam, sequence)) {
+            return false;
+        }
+        if (sequence == MatchRepository.NO_SEQUENCE && isUnchanged(homeTeam, awayTeam, homeScore, awayScore)) {
+            received.increment();
+            unchanged.increment();
+            return true;
+        }
+        long window = windowNanos;
+        boolean[] accepted = {true};
+        pending.compute(MatchRepository.generateKey(homeTeam, awayTeam), (key, queued) -> {
+            if (!advanceSequence(homeTeam, awayTeam, sequence)) {
+                accepted[0] = false;
+                return queued;
+            }
+            if (queued == null) {
+                if (window > 0) {
+                    Match current = repository.findMatch(homeTeam, awayTeam);
+                    if (current != null && current.homeScore() == homeScore && current.awayScore() == awayScore) {
+                        unchanged.increment();
+                        return null;
+                    }
+                    if (current != null) {
+                        return new PendingUpdate(homeTeam, awayTeam, homeScore, awayScore, nanoClock.getAsLong());
+                    }
+                }
+                // Unknown matches fall through so the repository reports them as usual.
+                apply(homeTeam, awayTeam, homeScore, awayScore);
+                return null;
+            }
+            PendingUpdate latest;
+            if (queued.homeScore() == homeScore && queued.awayScore() == awayScore) {
+                unchanged.increment();
+                latest = queued;
+            } else {
+                coalesced.increment();
+                latest = new PendingUpdate(homeTeam, awayTeam, homeScore, awayScore, queued.windowStart());
+            }
+            if (nanoClock.getAsLong() - latest.windowStart() >= window) {
+                apply(latest.homeTeam(), latest.awayTeam(), latest.homeScore(), latest.awayScore());
+                return null;
+            }
+            return latest;
+        });
+        if (accepted[0]) {
+            received.increment();
+        }
+        return accepted[0];
+    }
+
+    void remove(String homeTeam, String awayTeam) {
+        remove(homeTeam, awayTeam, MatchRepository.NO_SEQUENCE);
+    }
+
+    boolean remove(String homeTeam, String awayTeam, long sequence) {
+        if (isStale(homeTeam, awayTeam, sequence)) {
+            return false;
+        }
+        boolean[] removed = {false};
+        pending.compute(MatchRepository.generateKey(homeTeam, awayTeam), (key, queued) -> {
+            if (!advanceSequence(homeTeam, awayTeam, sequence)) {
+                return queued;
+            }
+            if (queued != null) {
+                coalesced.increment();
+            }
+            removed[0] = repository.removeMatch(homeTeam, awayTeam);
+            return null;
+        });
+        return removed[0];
+    }
+
+    void flush() {
+        for (String key : pending.keySet()) {
+            pending.computeIfPresent(key, (k, queued) -> {
+                apply(queued.homeTeam(), queued.awayTeam(), queued.homeScore(), queued.awayScore());
+                return null;
+            });
+        }
+    }
+
+    void applyExpired() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        long window = windowNanos;
+        for (String key : pending.keySet()) {
+            pending.computeIfPresent(key, (k, queued) -> {
+                if (now - queued.windowStart() < window) {
+                    return queued;
+                }
+                apply(queued.homeTeam(), queued.awayTeam(), queued.homeScore(), queued.awayScore());
+                return null;
+            });
+        }
+    }
+
+    CoalescingStats stats() {
+        return new CoalescingStats(received.sum(), applied.sum(), coalesced.sum(), unchanged.sum(), stale.sum());
+    }
+
+    // Lock-free check against the published board; a queued score for the match must still be superseded.
+    private boolean isUnchanged(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        Match current = repository.findMatch(homeTeam, awayTeam);
+        return current != null
+                && current.homeScore() == homeScore
+                && current.awayScore() == awayScore
+                && !pending.containsKey(MatchRepository.generateKey(homeTeam, awayTeam));
+    }
+
+    private boolean isStale(String homeTeam, String awayTeam, long sequence) {
+        if (sequence != MatchRepository.NO_SEQUENCE && repository.isStale(homeTeam, awayTeam, sequence)) {
+            stale.increment();
+            return true;
+        }
+        return false;
+    }
+
+    // Runs inside the per-match compute, which serializes sequence checks for the same match.
+    private boolean advanceSequence(String homeTeam, String awayTeam, long sequence) {
+        if (sequence == MatchRepository.NO_SEQUENCE || repository.advanceSequence(homeTeam, awayTeam, sequence)) {
+            return true;
+        }
+        stale.increment();
+        return false;
+    }
+
+    private void apply(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        if (repository.updateMatchScore(homeTeam, awayTeam, homeScore, awayScore)) {
+            applied.increment();
+        } else {
+            unchanged.increment();
+        }
+    }
+
+    private record PendingUpdate(String homeTeam,
+                                 String awayTeam,
+                                 int homeScore,
+                                 int awayScore,
+                                 long windowStart
+    ) {
+    }
+}
@@ -14,6 +14,9 @@ import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -91,6 +94,20 @@ class MatchRepositoryTest {
         assertEquals(3, updated.awayScore(), "Away score should be updated to 3.");
     }
 
+    @Test
+    void updateMatchScore_should_not_write_when_score_unchanged() {
+        // Given: A match repository with an existing match between TeamA and TeamB (score 0-0)
+        repository.addMatch("TeamA", "TeamB", 0, 0);
+        Match before = repository.findMatch("TeamA", "TeamB");
+
+        // When: Updating the match to the score it already has
+        boolean written = repository.updateMatchScore("TeamA", "TeamB", 0, 0);
+
+        // Then: Nothing is written and the stored match is left as is
+        assertFalse(written, "Identical score should not be written.");
+        assertSame(before, repository.findMatch("TeamA", "TeamB"));
+    }
+
     @Test
     void updateMatchScore_should_log_warning_when_non_existent_match() {
         // Given: A match repository without a match between TeamX and TeamY
@@ -110,6 +127,172 @@ class MatchRepositoryTest {
         assertTrue(foundWarning, "Expected warning log message when updating non-existent match.");
     }
 
+    @Test
+    void getMatchesAt_should_return_historical_state() {
+        // Given: A match repository with a match that was started, updated and finished
+        repository.addMatch("TeamA", "TeamB", 0, 0);
+        long started = repository.getCurrentVersion();
+        repository.updateMatchScore("TeamA", "TeamB", 1, 0);
+        long scored = repository.getCurrentVersion();
+        repository.removeMatch("TeamA", "TeamB");
+
+        // When: Reading the matches at each version
+        List<Match> atStart = repository.getMatchesAt(started);
+        List<Match> afterGoal = repository.getMatchesAt(scored);
+        List<Match> current = repository.getMatchesAt(repository.getCurrentVersion());
+
+        // Then: Every version reflects the board as it was at that point
+        assertEquals(0, atStart.getFirst().homeScore());
+        assertEquals(1, afterGoal.getFirst().homeScore());
+        assertTrue(current.isEmpty(), "Board should be empty after the match is removed.");
+        assertTrue(repository.getMatchesAt(0).isEmpty(), "Initial version should be empty.");
+    }
+
+    @Test
+    void getMatchesAt_should_throw_exception_when_version_evicted() {
+        // Given: A match repository retaining only the two most recent versions
+        repository.setRetainedVersions(2);
+
+        // When: Making several changes
+        repository.addMatch("TeamA", "TeamB", 0, 0);
+        repository.updateMatchScore("TeamA", "TeamB", 1, 0);
+        repository.updateMatchScore("TeamA", "TeamB", 2, 0);
+
+        // Then: Old versions are no longer available while recent ones are
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> repository.getMatchesAt(0));
+        assertEquals("Version not available.", exception.getMessage());
+        assertEquals(2, repository.getMatchesAt(repository.getCurrentVersion()).getFirst().homeScore());
+        assertEquals(1, repository.getMatchesAt(repository.getCurrentVersion() - 1).getFirst().homeScore());
+    }
+
+    @Test
+    void updateMatchScore_should_not_create_version_when_score_unchanged() {
+        // Given: A match repository with an existing match
+        repository.addMatch("TeamA", "TeamB", 0, 0);
+        long version = repository.getCurrentVersion();
+
+        // When: Writing the same score again
+        repository.updateMatchScore("TeamA", "TeamB", 0, 0);
+
+        // Then: The version does not change
+        assertEquals(version, repository.getCurrentVersion());
+    }
+
+    @Test
+    void aggregates_should_follow_add_update_and_remove() {
+        // Given: A match repository with two matches
+        repository.addMatch("TeamA", "TeamB", 0, 0);
+        repository.addMatch("TeamC", "TeamD", 0, 0);
+
+        // When: Scores change and one match is removed
+        repository.updateMatchScore("TeamA", "TeamB", 2, 1);
+        repository.updateMatchScore("TeamC", "TeamD", 3, 1);
+        repository.updateMatchScore("TeamC", "TeamD", 1, 1);
+        long goalsBeforeRemoval = repository.getTotalGoals();
+        Match leaderBeforeRemoval = repository.getLeader();
+        repository.removeMatch("TeamA", "TeamB");
+
+        // Then: Aggregates reflect every change without a board scan
+        assertEquals(5, goalsBeforeRemoval);
+        assertEquals("TeamA", leaderBeforeRemoval.homeTeam());
+        assertEquals(2, repository.getTotalGoals());
+        assertEquals(1, repository.getMatchCount());
+        assertEquals("TeamC", repository.getLeader().homeTeam());
+        assertEquals(1, repository.getTeamGoals("TeamD"));
+        assertEquals(0, repository.getTeamGoals("TeamA"));
+    }
+
+    @Test
+    void findMatch_should_find_match_in_either_team_order_only() {
+        // Given: A match repository with a match between TeamA and TeamB
+        repository.addMatch("TeamA", "TeamB", 0, 0);
+
+        // When & Then: The match is found by its teams in any order, but not by another pairing
+        assertEquals("TeamA", repository.findMatch("TeamA", "TeamB").homeTeam());
+        assertEquals("TeamA", repository.findMatch("TeamB", "TeamA").homeTeam());
+        assertNull(repository.findMatch("TeamA", "TeamC"));
+        assertNull(repository.findMatch("TeamX", "TeamY"));
+    }
+
+    @Test
+    void getTeamGoals_should_read_goals_from_published_version() {
+        // Given: A match repository with a match where the away team leads
+        repository.addMatch("TeamA", "TeamB", 0, 0);
+        repository.updateMatchScore("TeamB", "TeamA", 1, 3);
+
+        // When & Then: Each team's goals follow the stored match orientation
+        assertEquals(1, repository.getTeamGoals("TeamA"));
+        assertEquals(3, repository.getTeamGoals("TeamB"));
+        assertEquals(repository.getTotalGoals(),
+                repository.getTeamGoals("TeamA") + repository.getTeamGoals("TeamB"));
+    }
+
+    @Test
+    void getTeamGoals_should_ignore_finished_matches() {
+        // Given: A finished match, after which one of its teams starts a new match
+        repository.addMatch("TeamA", "TeamB", 0, 0);
+        repository.updateMatchScore("TeamA", "TeamB", 2, 1);
+        repository.removeMatch("TeamA", "TeamB");
+        repository.addMatch("TeamC", "TeamA", 0, 0);
+        repository.updateMatchScore("TeamC", "TeamA", 0, 4);
+
+        // When & Then: Only the team's live match counts
+        assertEquals(4, repository.getTeamGoals("TeamA"));
+        assertEquals(0, repository.getTeamGoals("TeamB"));
+        assertNull(repository.findMatch("TeamA", "TeamB"));
+    }
+
+    @Test
+    void advanceSequence_should_only_accept_increasing_sequences() {
+        // Given: A match repository with an existing match
+        repository.addMatch("TeamA", "TeamB", 0, 0);
+
+        // When: Advancing the sequence of the match
+        boolean first = repository.advanceSequence("TeamA", "TeamB", 3);
+        boolean duplicate = repository.advanceSequence("TeamA", "TeamB", 3);
+        boolean newer = repository.advanceSequence("TeamB", "TeamA", 4);
+
+        // Then: Only increasing sequences are accepted and older ones are reported stale
+        assertTrue(first, "First sequence should be accepted.");
+        assertFalse(duplicate, "Duplicate sequence should be rejected.");
+        assertTrue(newer, "Newer sequence should be accepted.");
+        assertTrue(repository.isStale("TeamA", "TeamB", 4), "Sequence 4 should now be stale.");
+        assertFalse(repository.isStale("TeamA", "TeamC", 1), "Other pairings should not be reported stale.");
+    }
+
+    @Test
+    void removeMatch_should_keep_final_sequence_of_finished_match() {
+        // Given: A match that accepted sequence 7
+        repository.addMatch("TeamA", "TeamB", 0, 0);
+        repository.advanceSequence("TeamA", "TeamB", 7);
+
+        // When: The match is finished and one of its teams starts another match
+        repository.removeMatch("TeamA", "TeamB");
+        repository.addMatch("TeamA", "TeamC", 0, 0);
+
+        // Then: Events up to the final sequence are still stale, in either team order, and newer ones are not recorded
+        assertTrue(repository.isStale("TeamB", "TeamA", 7), "Finished match should reject its final sequence.");
+        assertTrue(repository.isStale("TeamA", "TeamB", 3), "Finished match should reject older sequences.");
+        assertTrue(repository.advanceSequence("TeamA", "TeamB", 9));
+        assertFalse(repository.isStale("TeamA", "TeamB", 8), "Finished match should not record new sequences.");
+        assertFalse(repository.isStale("TeamA", "TeamC", 1), "New match should accept any sequence.");
+    }
+
+    @Test
+    void addMatch_should_clear_tombstone_of_finished_match() {
+        // Given: A finished match that had accepted a sequence number
+        repository.addMatch("TeamA", "TeamB", 0, 0);
+        repository.advanceSequence("TeamA", "TeamB", 7);
+        repository.removeMatch("TeamA", "TeamB");
+
+        // When: The same teams start a new match
+        repository.addMatch("TeamA", "TeamB", 0, 0);
+
+        // Then: The new match starts without sequence history
+        assertFalse(repository.isStale("TeamA", "TeamB", 1), "New match should accept any sequence.");
+    }
+
     private static class TestLogHandler extends Handler {
         private final List<LogRecord> records = new ArrayList<>();
 
@@ -0,0 +1,78 @@
+package com.example.scoreboard;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PersistentMatchIndexTest {
+
+    @Test
+    void with_should_leave_previous_version_untouched() {
+        // Given: An index containing one match
+        Match original = new Match("TeamA", "TeamB", 0, 0, 0);
+        PersistentMatchIndex first = PersistentMatchIndex.EMPTY.with(original);
+
+        // When: Replacing the match with an updated score
+        Match updated = new Match("TeamA", "TeamB", 1, 0, 0);
+        PersistentMatchIndex second = first.with(updated);
+
+        // Then: Each version still sees its own match
+        assertSame(original, first.get(0));
+        assertSame(updated, second.get(0));
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+    }
+
+    @Test
+    void with_should_grow_beyond_single_node() {
+        // Given: An empty index
+        PersistentMatchIndex index = PersistentMatchIndex.EMPTY;
+
+        // When: Adding more matches than fit in a single trie node
+        for (int i = 0; i < 1100; i++) {
+            index = index.with(new Match("Home" + i, "Away" + i, i, 0, i));
+        }
+
+        // Then: All matches are retrievable in insertion order
+        assertEquals(1100, index.size());
+        List<Match> values = index.values();
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(i, values.get(i).insertionOrder());
+        }
+    }
+
+    @Test
+    void without_should_remove_match_and_keep_others() {
+        // Given: An index with two matches far apart in insertion order
+        PersistentMatchIndex index = PersistentMatchIndex.EMPTY
+                .with(new Match("TeamA", "TeamB", 0, 0, 3))
+                .with(new Match("TeamC", "TeamD", 0, 0, 700));
+
+        // When: Removing both matches one by one
+        PersistentMatchIndex withoutFirst = index.without(3);
+        PersistentMatchIndex empty = withoutFirst.without(700);
+
+        // Then: Removed matches are gone while earlier versions are unaffected
+        assertNull(withoutFirst.get(3));
+        assertEquals("TeamC", withoutFirst.get(700).homeTeam());
+        assertTrue(empty.values().isEmpty(), "Index should be empty.");
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void without_should_return_same_instance_for_missing_match() {
+        // Given: An index with a single match
+        PersistentMatchIndex index = PersistentMatchIndex.EMPTY.with(new Match("TeamA", "TeamB", 0, 0, 0));
+
+        // When & Then: Removing an absent match does not create a new version
+        assertSame(index, index.without(42));
+    }
+}
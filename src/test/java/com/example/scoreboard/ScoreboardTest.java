@@ -4,9 +4,12 @@ import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -242,6 +245,214 @@ class ScoreboardTest {
                 () -> summary.add(newMatch));
     }
 
+    @Test
+    void should_apply_coalesced_updates_before_summary_is_built() {
+        // Given: A scoreboard with a long coalescing window and an ongoing match
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.setCoalescingWindow(Duration.ofHours(1));
+        scoreboard.startMatch("TeamA", "TeamB");
+
+        // When: A burst of updates arrives for the match
+        scoreboard.updateScore("TeamA", "TeamB", 1, 0);
+        scoreboard.updateScore("TeamA", "TeamB", 1, 0);
+        scoreboard.updateScore("TeamA", "TeamB", 2, 0);
+
+        // Then: The summary shows the last score and the absorbed writes are counted
+        MatchSnapshot match = scoreboard.getSummary().getFirst();
+        assertEquals(2, match.homeScore());
+        assertEquals(0, match.awayScore());
+        CoalescingStats stats = scoreboard.getCoalescingStats();
+        assertEquals(3, stats.receivedUpdates());
+        assertEquals(1, stats.appliedUpdates());
+        assertEquals(2, stats.absorbedUpdates());
+    }
+
+    @Test
+    void should_not_show_pending_update_after_match_finished() {
+        // Given: A scoreboard with a pending coalesced update
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.setCoalescingWindow(Duration.ofHours(1));
+        scoreboard.startMatch("TeamA", "TeamB");
+        scoreboard.updateScore("TeamA", "TeamB", 1, 0);
+
+        // When: The match is finished
+        scoreboard.finishMatch("TeamA", "TeamB");
+
+        // Then: The summary is empty
+        assertTrue(scoreboard.getSummary().isEmpty(), "Summary should be empty after finishing the match.");
+    }
+
+    @Test
+    void aggregate_reads_should_apply_update_once_window_elapsed() {
+        // Given: A scoreboard with a single update pending in a coalescing window
+        AtomicLong clock = new AtomicLong();
+        Scoreboard scoreboard = new Scoreboard(clock::get);
+        scoreboard.setCoalescingWindow(Duration.ofSeconds(1));
+        scoreboard.startMatch("TeamA", "TeamB");
+        scoreboard.updateScore("TeamA", "TeamB", 2, 1);
+        assertEquals(0, scoreboard.getTotalGoals());
+
+        // When: The window passes without any further update for the match
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // Then: Aggregate reads show the new score without a flush
+        assertEquals(3, scoreboard.getTotalGoals());
+        assertEquals(2, scoreboard.getTeamGoals("TeamA"));
+        assertEquals(2, scoreboard.getHighestScoringMatch().orElseThrow().homeScore());
+    }
+
+    @Test
+    void setCoalescingWindow_should_throw_exception_for_negative_window() {
+        // Given: A new scoreboard instance
+        Scoreboard scoreboard = new Scoreboard();
+
+        // When & Then: Configuring a negative window should throw an exception
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> scoreboard.setCoalescingWindow(Duration.ofMillis(-1)));
+        assertEquals("Coalescing window must be non-negative.", exception.getMessage());
+    }
+
+    @Test
+    void getSummaryAt_should_return_board_as_it_was_at_version() {
+        // Given: A scoreboard whose matches changed after a version was recorded
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        long version = scoreboard.getVersion();
+        scoreboard.updateScore("Spain", "Brazil", 4, 3);
+        scoreboard.finishMatch("Mexico", "Canada");
+
+        // When: Retrieving the summary at the recorded version
+        List<MatchSnapshot> summary = scoreboard.getSummaryAt(version);
+
+        // Then: The historical summary is ordered and unaffected by later changes
+        assertEquals(2, summary.size(), "Historical summary should contain 2 matches.");
+        assertEquals("Mexico", summary.get(0).homeTeam());
+        assertEquals(5, summary.get(0).awayScore());
+        assertEquals("Spain", summary.get(1).homeTeam());
+        assertEquals(0, summary.get(1).homeScore());
+        assertEquals(1, scoreboard.getSummary().size());
+    }
+
+    @Test
+    void getSummaryAt_should_throw_exception_for_future_version() {
+        // Given: A new scoreboard instance
+        Scoreboard scoreboard = new Scoreboard();
+
+        // When & Then: Reading a version that does not exist yet should throw an exception
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> scoreboard.getSummaryAt(scoreboard.getVersion() + 1));
+        assertEquals("Version not available.", exception.getMessage());
+    }
+
+    @Test
+    void setRetainedVersions_should_throw_exception_when_less_than_one() {
+        // Given: A new scoreboard instance
+        Scoreboard scoreboard = new Scoreboard();
+
+        // When & Then: Retaining no versions should throw an exception
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> scoreboard.setRetainedVersions(0));
+        assertEquals("At least one version must be retained.", exception.getMessage());
+    }
+
+    @Test
+    void should_expose_aggregates_matching_summary() {
+        // Given: A scoreboard with three ongoing matches having different scores
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.updateScore("Spain", "Brazil", 2, 3);
+        scoreboard.updateScore("Germany", "France", 2, 1);
+
+        // When: Reading the aggregates
+        MatchSnapshot leader = scoreboard.getHighestScoringMatch().orElseThrow();
+
+        // Then: The aggregates agree with the summary
+        assertEquals(scoreboard.getSummary().getFirst(), leader);
+        assertEquals(13, scoreboard.getTotalGoals());
+        assertEquals(3, scoreboard.getMatchesInProgress());
+        assertEquals(5, scoreboard.getTeamGoals("Canada"));
+        assertEquals(0, scoreboard.getTeamGoals("Italy"));
+    }
+
+    @Test
+    void should_report_empty_aggregates_when_board_is_empty() {
+        // Given: A scoreboard whose only match has finished
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startMatch("TeamA", "TeamB");
+        scoreboard.updateScore("TeamA", "TeamB", 1, 1);
+        scoreboard.finishMatch("TeamA", "TeamB");
+
+        // When & Then: Aggregates are reset
+        assertTrue(scoreboard.getHighestScoringMatch().isEmpty(), "No match should lead an empty board.");
+        assertEquals(0, scoreboard.getTotalGoals());
+        assertEquals(0, scoreboard.getMatchesInProgress());
+        assertEquals(0, scoreboard.getTeamGoals("TeamA"));
+    }
+
+    @Test
+    void getTeamGoals_should_throw_exception_when_team_is_null() {
+        // Given: A new scoreboard instance
+        Scoreboard scoreboard = new Scoreboard();
+
+        // When & Then: Querying goals for a null team should throw an exception
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> scoreboard.getTeamGoals(null));
+        assertEquals("Team name cannot be empty.", exception.getMessage());
+    }
+
+    @Test
+    void sequenced_updates_should_skip_out_of_order_events() {
+        // Given: A scoreboard with an ongoing match
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startMatch("TeamA", "TeamB");
+
+        // When: Events arrive out of order and redelivered
+        assertTrue(scoreboard.updateScore("TeamA", "TeamB", 1, 0, 1));
+        assertTrue(scoreboard.updateScore("TeamA", "TeamB", 2, 1, 3));
+        boolean late = scoreboard.updateScore("TeamA", "TeamB", 1, 1, 2);
+        boolean redelivered = scoreboard.updateScore("TeamA", "TeamB", 2, 1, 3);
+
+        // Then: Stale and duplicate events are rejected and counted
+        assertFalse(late, "Late event should be rejected.");
+        assertFalse(redelivered, "Redelivered event should be rejected.");
+        MatchSnapshot match = scoreboard.getSummary().getFirst();
+        assertEquals(2, match.homeScore());
+        assertEquals(1, match.awayScore());
+        assertEquals(2, scoreboard.getCoalescingStats().staleUpdates());
+    }
+
+    @Test
+    void sequenced_finish_should_skip_stale_event() {
+        // Given: A scoreboard with a match that accepted sequence 5
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startMatch("TeamA", "TeamB");
+        scoreboard.updateScore("TeamA", "TeamB", 1, 0, 5);
+
+        // When & Then: A stale finish is ignored and a newer one finishes the match
+        assertFalse(scoreboard.finishMatch("TeamA", "TeamB", 4));
+        assertEquals(1, scoreboard.getSummary().size());
+        assertTrue(scoreboard.finishMatch("TeamA", "TeamB", 6));
+        assertTrue(scoreboard.getSummary().isEmpty(), "Summary should be empty after finishing the match.");
+        assertFalse(scoreboard.finishMatch("TeamA", "TeamB", 6));
+    }
+
+    @Test
+    void sequenced_update_should_throw_exception_for_negative_sequence() {
+        // Given: A scoreboard with an ongoing match
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startMatch("TeamA", "TeamB");
+
+        // When & Then: A negative sequence number should throw an exception
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> scoreboard.updateScore("TeamA", "TeamB", 1, 0, -1));
+        assertEquals("Sequence number must be non-negative.", exception.getMessage());
+    }
+
     @Test
     void givenScoreboardSingleton_whenGetInstanceCalledRepeatedly_thenSameInstanceReturned() {
         // Given: The Scoreboard singleton
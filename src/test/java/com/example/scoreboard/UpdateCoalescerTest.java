@@ -0,0 +1,249 @@
+package com.example.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class UpdateCoalescerTest {
+
+    private static final long WINDOW = 100;
+
+    private MatchRepository repository;
+    private AtomicLong clock;
+    private UpdateCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MatchRepository();
+        clock = new AtomicLong();
+        coalescer = new UpdateCoalescer(repository, clock::get);
+        repository.addMatch("TeamA", "TeamB", 0, 0);
+    }
+
+    @Test
+    void submit_should_apply_immediately_when_window_is_zero() {
+        // Given: A coalescer with coalescing disabled
+
+        // When: Submitting a score update
+        coalescer.submit("TeamA", "TeamB", 1, 0);
+
+        // Then: The repository reflects the update right away
+        assertScore(1, 0);
+        assertEquals(new CoalescingStats(1, 1, 0, 0, 0), coalescer.stats());
+    }
+
+    @Test
+    void submit_should_skip_repository_write_for_identical_score() {
+        // Given: A coalescer with coalescing disabled and a match at 0-0
+
+        // When: Submitting the score already on the board
+        coalescer.submit("TeamA", "TeamB", 0, 0);
+
+        // Then: The update is counted as unchanged
+        assertEquals(new CoalescingStats(1, 0, 0, 1, 0), coalescer.stats());
+    }
+
+    @Test
+    void submit_should_skip_identical_score_without_new_version() {
+        // Given: A coalescer with an open window and a match at 0-0
+        coalescer.setWindowNanos(WINDOW);
+        long version = repository.getCurrentVersion();
+
+        // When: Submitting the score already on the board
+        coalescer.submit("TeamA", "TeamB", 0, 0);
+        coalescer.flush();
+
+        // Then: Nothing is queued or written
+        assertEquals(version, repository.getCurrentVersion());
+        assertEquals(new CoalescingStats(1, 0, 0, 1, 0), coalescer.stats());
+    }
+
+    @Test
+    void submit_should_supersede_pending_update_with_score_on_board() {
+        // Given: A coalescer with a pending update that differs from the board
+        coalescer.setWindowNanos(WINDOW);
+        coalescer.submit("TeamA", "TeamB", 1, 0);
+
+        // When: The board's current score is submitted again
+        coalescer.submit("TeamA", "TeamB", 0, 0);
+        coalescer.flush();
+
+        // Then: The last write wins and the board keeps its score
+        assertScore(0, 0);
+        assertEquals(1, coalescer.stats().coalescedUpdates());
+    }
+
+    @Test
+    void submit_should_keep_last_write_within_window() {
+        // Given: A coalescer with an open window
+        coalescer.setWindowNanos(WINDOW);
+
+        // When: Submitting a burst of updates within the window
+        coalescer.submit("TeamA", "TeamB", 1, 0);
+        coalescer.submit("TeamA", "TeamB", 1, 1);
+        coalescer.submit("TeamA", "TeamB", 2, 1);
+
+        // Then: Nothing is written until the pending updates are flushed, and only the last score is applied
+        assertScore(0, 0);
+        coalescer.flush();
+        assertScore(2, 1);
+        assertEquals(new CoalescingStats(3, 1, 2, 0, 0), coalescer.stats());
+    }
+
+    @Test
+    void submit_should_apply_once_window_elapsed() {
+        // Given: A coalescer with a pending update
+        coalescer.setWindowNanos(WINDOW);
+        coalescer.submit("TeamA", "TeamB", 1, 0);
+
+        // When: A further update arrives after the window has elapsed
+        clock.addAndGet(WINDOW);
+        coalescer.submit("TeamA", "TeamB", 2, 0);
+
+        // Then: The latest score is written without an explicit flush
+        assertScore(2, 0);
+        assertEquals(new CoalescingStats(2, 1, 1, 0, 0), coalescer.stats());
+    }
+
+    @Test
+    void applyExpired_should_apply_only_updates_whose_window_elapsed() {
+        // Given: Two matches with pending updates queued at different times
+        repository.addMatch("TeamC", "TeamD", 0, 0);
+        coalescer.setWindowNanos(WINDOW);
+        coalescer.submit("TeamA", "TeamB", 1, 0);
+        clock.addAndGet(WINDOW / 2);
+        coalescer.submit("TeamC", "TeamD", 0, 1);
+
+        // When: Expired updates are applied once the first window has elapsed
+        clock.addAndGet(WINDOW / 2);
+        coalescer.applyExpired();
+
+        // Then: Only the first match is written; the second stays pending until its own window elapses
+        assertScore(1, 0);
+        assertEquals(0, repository.findMatch("TeamC", "TeamD").awayScore());
+        clock.addAndGet(WINDOW / 2);
+        coalescer.applyExpired();
+        assertEquals(1, repository.findMatch("TeamC", "TeamD").awayScore());
+    }
+
+    @Test
+    void submit_should_throw_exception_for_non_existent_match_when_coalescing() {
+        // Given: A coalescer with an open window
+        coalescer.setWindowNanos(WINDOW);
+
+        // When & Then: Updating an unknown match is rejected immediately
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> coalescer.submit("TeamX", "TeamY", 1, 1));
+        assertEquals("Match not found.", exception.getMessage());
+        assertEquals(0, coalescer.stats().receivedUpdates());
+    }
+
+    @Test
+    void remove_should_discard_pending_update() {
+        // Given: A coalescer with a pending update
+        coalescer.setWindowNanos(WINDOW);
+        coalescer.submit("TeamA", "TeamB", 1, 0);
+
+        // When: The match is removed and pending updates are flushed
+        coalescer.remove("TeamA", "TeamB");
+        coalescer.flush();
+
+        // Then: The match is gone and the pending update was absorbed
+        assertTrue(repository.getAllMatches().isEmpty(), "Match should be removed.");
+        assertEquals(1, coalescer.stats().coalescedUpdates());
+    }
+
+    @Test
+    void submit_should_reject_stale_and_duplicate_sequences() {
+        // Given: A coalescer that accepted sequence 5 for a match
+        coalescer.submit("TeamA", "TeamB", 2, 0, 5);
+
+        // When: Older and duplicate events arrive, in either team order
+        boolean older = coalescer.submit("TeamA", "TeamB", 1, 0, 4);
+        boolean duplicate = coalescer.submit("TeamB", "TeamA", 2, 0, 5);
+        boolean newer = coalescer.submit("TeamA", "TeamB", 3, 0, 6);
+
+        // Then: Only the newer event is accepted
+        assertFalse(older, "Older sequence should be rejected.");
+        assertFalse(duplicate, "Duplicate sequence should be rejected.");
+        assertTrue(newer, "Newer sequence should be accepted.");
+        assertScore(3, 0);
+        assertEquals(new CoalescingStats(2, 2, 0, 0, 2), coalescer.stats());
+    }
+
+    @Test
+    void submit_should_reject_stale_sequence_while_update_pending() {
+        // Given: A coalescer with a pending sequenced update
+        coalescer.setWindowNanos(WINDOW);
+        coalescer.submit("TeamA", "TeamB", 2, 0, 5);
+
+        // When: An older event arrives before the pending update is applied
+        boolean accepted = coalescer.submit("TeamA", "TeamB", 1, 0, 3);
+        coalescer.flush();
+
+        // Then: The older event does not overwrite the pending score
+        assertFalse(accepted, "Older sequence should be rejected.");
+        assertScore(2, 0);
+    }
+
+    @Test
+    void remove_should_ignore_stale_sequence() {
+        // Given: A coalescer that accepted sequence 5 for a match
+        coalescer.submit("TeamA", "TeamB", 1, 0, 5);
+
+        // When: A finish with an older sequence arrives, followed by a newer one
+        boolean staleFinish = coalescer.remove("TeamA", "TeamB", 2);
+        boolean finish = coalescer.remove("TeamA", "TeamB", 6);
+
+        // Then: Only the newer finish removes the match
+        assertFalse(staleFinish, "Stale finish should be rejected.");
+        assertTrue(finish, "Newer finish should remove the match.");
+        assertTrue(repository.getAllMatches().isEmpty(), "Match should be removed.");
+        assertEquals(1, coalescer.stats().staleUpdates());
+    }
+
+    @Test
+    void submit_should_reject_late_update_for_finished_match() {
+        // Given: A match finished with sequence 7 after accepting sequence 5
+        coalescer.submit("TeamA", "TeamB", 1, 0, 5);
+        coalescer.remove("TeamA", "TeamB", 7);
+
+        // When: An event older than the finish arrives late
+        boolean accepted = coalescer.submit("TeamA", "TeamB", 2, 0, 6);
+
+        // Then: It is rejected as stale instead of failing as an unknown match
+        assertFalse(accepted, "Late update should be rejected.");
+        assertTrue(repository.getAllMatches().isEmpty(), "Match should stay finished.");
+        assertEquals(new CoalescingStats(1, 1, 0, 0, 1), coalescer.stats());
+    }
+
+    @Test
+    void remove_should_reject_duplicate_finish() {
+        // Given: A match finished with sequence 7
+        coalescer.remove("TeamA", "TeamB", 7);
+        long version = repository.getCurrentVersion();
+
+        // When: The same finish is delivered again
+        boolean removed = coalescer.remove("TeamB", "TeamA", 7);
+
+        // Then: It is rejected as stale without touching the repository
+        assertFalse(removed, "Duplicate finish should be rejected.");
+        assertEquals(version, repository.getCurrentVersion());
+        assertEquals(1, coalescer.stats().staleUpdates());
+    }
+
+    private void assertScore(int homeScore, int awayScore) {
+        Match match = repository.findMatch("TeamA", "TeamB");
+        assertEquals(homeScore, match.homeScore());
+        assertEquals(awayScore, match.awayScore());
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.scoreboard;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZII_Result;
+
+import java.time.Duration;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Same race as {@link UpdateFinishRaceTest}, but with coalescing enabled so the update may still be pending
+ * when the match is finished.
+ */
+@JCStressTest
+@Description("A pending coalesced update must never be applied after its match has finished.")
+@Outcome(id = "true, 0, 0", expect = ACCEPTABLE, desc = "Update queued before the match was finished.")
+@Outcome(id = "false, 0, 0", expect = ACCEPTABLE, desc = "Update rejected, the match was already finished.")
+@Outcome(expect = FORBIDDEN, desc = "Finished match resurrected or aggregates out of sync.")
+@State
+public class CoalescedUpdateFinishRaceTest {
+
+    private final Scoreboard scoreboard = new Scoreboard();
+
+    public CoalescedUpdateFinishRaceTest() {
+        scoreboard.setCoalescingWindow(Duration.ofHours(1));
+        scoreboard.startMatch("TeamA", "TeamB");
+    }
+
+    @Actor
+    public void update(ZII_Result r) {
+        try {
+            scoreboard.updateScore("TeamA", "TeamB", 1, 2);
+            r.r1 = true;
+        } catch (IllegalArgumentException e) {
+            r.r1 = false;
+        }
+    }
+
+    @Actor
+    public void finish() {
+        scoreboard.finishMatch("TeamA", "TeamB");
+    }
+
+    @Arbiter
+    public void arbiter(ZII_Result r) {
+        r.r2 = scoreboard.getSummary().size();
+        r.r3 = (int) scoreboard.getTotalGoals();
+    }
+}
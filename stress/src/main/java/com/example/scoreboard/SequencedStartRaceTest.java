@@ -0,0 +1,47 @@
+package com.example.scoreboard;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZI_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * A sequenced update races the start of its match. If the update is accepted, its sequence number must have been
+ * recorded, so a later event with a lower sequence number is rejected.
+ */
+@JCStressTest
+@Description("A sequenced update racing startMatch is either rejected as unknown or has its sequence recorded.")
+@Outcome(id = "true, false, 1", expect = ACCEPTABLE, desc = "Update applied after the start, older event rejected.")
+@Outcome(id = "false, true, 2", expect = ACCEPTABLE, desc = "Update arrived before the start and was rejected.")
+@Outcome(expect = FORBIDDEN, desc = "Update applied without recording its sequence number.")
+@State
+public class SequencedStartRaceTest {
+
+    private final Scoreboard scoreboard = new Scoreboard();
+
+    @Actor
+    public void start() {
+        scoreboard.startMatch("TeamA", "TeamB");
+    }
+
+    @Actor
+    public void update(ZZI_Result r) {
+        try {
+            r.r1 = scoreboard.updateScore("TeamA", "TeamB", 1, 0, 5);
+        } catch (IllegalArgumentException e) {
+            r.r1 = false;
+        }
+    }
+
+    @Arbiter
+    public void arbiter(ZZI_Result r) {
+        r.r2 = scoreboard.updateScore("TeamA", "TeamB", 2, 0, 3);
+        r.r3 = scoreboard.getSummary().getFirst().homeScore();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.scoreboard;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZI_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Two consumers deliver sequenced events for the same match in parallel. Whichever arrives first, the event with
+ * the higher sequence number must win.
+ */
+@JCStressTest
+@Description("Concurrent sequenced updates must converge on the highest sequence number.")
+@Outcome(id = "true, true, 2", expect = ACCEPTABLE, desc = "Older event applied first, then superseded.")
+@Outcome(id = "false, true, 2", expect = ACCEPTABLE, desc = "Newer event applied first, older rejected as stale.")
+@Outcome(expect = FORBIDDEN, desc = "Older event overwrote the newer one.")
+@State
+public class SequencedUpdateRaceTest {
+
+    private final Scoreboard scoreboard = new Scoreboard();
+
+    public SequencedUpdateRaceTest() {
+        scoreboard.startMatch("TeamA", "TeamB");
+    }
+
+    @Actor
+    public void older(ZZI_Result r) {
+        r.r1 = scoreboard.updateScore("TeamA", "TeamB", 1, 0, 1);
+    }
+
+    @Actor
+    public void newer(ZZI_Result r) {
+        r.r2 = scoreboard.updateScore("TeamA", "TeamB", 2, 0, 2);
+    }
+
+    @Arbiter
+    public void arbiter(ZZI_Result r) {
+        r.r3 = scoreboard.getSummary().getFirst().homeScore();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.scoreboard;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZI_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Two matches sharing TeamA are started concurrently, once as home and once as away team.
+ * Exactly one of them may succeed.
+ */
+@JCStressTest
+@Description("Concurrent startMatch calls on overlapping teams must never put a team into two matches.")
+@Outcome(id = "true, false, 1", expect = ACCEPTABLE, desc = "First match started, second rejected.")
+@Outcome(id = "false, true, 1", expect = ACCEPTABLE, desc = "Second match started, first rejected.")
+@Outcome(expect = FORBIDDEN, desc = "Team in two matches, or both starts rejected.")
+@State
+public class StartMatchRaceTest {
+
+    private final Scoreboard scoreboard = new Scoreboard();
+
+    @Actor
+    public void startAsHome(ZZI_Result r) {
+        r.r1 = tryStart("TeamA", "TeamB");
+    }
+
+    @Actor
+    public void startAsAway(ZZI_Result r) {
+        r.r2 = tryStart("TeamC", "TeamA");
+    }
+
+    @Arbiter
+    public void arbiter(ZZI_Result r) {
+        r.r3 = (int) scoreboard.getSummary().stream()
+                .filter(m -> m.homeTeam().equals("TeamA") || m.awayTeam().equals("TeamA"))
+                .count();
+    }
+
+    private boolean tryStart(String homeTeam, String awayTeam) {
+        try {
+            scoreboard.startMatch(homeTeam, awayTeam);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.scoreboard;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import java.util.List;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Two matches are updated concurrently while a reader builds a summary. The reader must see each match exactly
+ * once, with a score it actually had, in valid summary order.
+ * <p>
+ * r1 encodes the summary observed by the reader: bit 0 is set if the TeamA-TeamB update was visible, bit 1 if the
+ * TeamC-TeamD update was visible, and -1 marks a torn, duplicated or misordered summary. r2 is the final total goals.
+ */
+@JCStressTest
+@Description("getSummary under concurrent writes must return complete, valid and correctly ordered snapshots.")
+@Outcome(id = "0, 3", expect = ACCEPTABLE, desc = "Reader saw neither update.")
+@Outcome(id = "1, 3", expect = ACCEPTABLE, desc = "Reader saw only the TeamA-TeamB update.")
+@Outcome(id = "2, 3", expect = ACCEPTABLE, desc = "Reader saw only the TeamC-TeamD update.")
+@Outcome(id = "3, 3", expect = ACCEPTABLE, desc = "Reader saw both updates.")
+@Outcome(expect = FORBIDDEN, desc = "Torn, duplicated or misordered summary, or lost update.")
+@State
+public class SummaryConsistencyTest {
+
+    private final Scoreboard scoreboard = new Scoreboard();
+
+    public SummaryConsistencyTest() {
+        scoreboard.startMatch("TeamA", "TeamB");
+        scoreboard.startMatch("TeamC", "TeamD");
+    }
+
+    @Actor
+    public void updateFirst() {
+        scoreboard.updateScore("TeamA", "TeamB", 1, 0);
+    }
+
+    @Actor
+    public void updateSecond() {
+        scoreboard.updateScore("TeamC", "TeamD", 0, 2);
+    }
+
+    @Actor
+    public void read(II_Result r) {
+        r.r1 = encode(scoreboard.getSummary());
+    }
+
+    @Arbiter
+    public void arbiter(II_Result r) {
+        r.r2 = (int) scoreboard.getTotalGoals();
+    }
+
+    private static int encode(List<MatchSnapshot> summary) {
+        if (summary.size() != 2) {
+            return -1;
+        }
+        for (int i = 1; i < summary.size(); i++) {
+            if (Match.SUMMARY_ORDER.compare((Match) summary.get(i - 1), (Match) summary.get(i)) > 0) {
+                return -1;
+            }
+        }
+        int seen = 0;
+        boolean first = false;
+        boolean second = false;
+        for (MatchSnapshot match : summary) {
+            int total = match.homeScore() + match.awayScore();
+            if (match.homeTeam().equals("TeamA") && !first) {
+                first = true;
+                if (total == 1) {
+                    seen |= 1;
+                } else if (total != 0) {
+                    return -1;
+                }
+            } else if (match.homeTeam().equals("TeamC") && !second) {
+                second = true;
+                if (total == 2) {
+                    seen |= 2;
+                } else if (total != 0) {
+                    return -1;
+                }
+            } else {
+                return -1;
+            }
+        }
+        return seen;
+    }
+}
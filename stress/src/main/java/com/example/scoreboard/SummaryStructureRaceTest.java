@@ -0,0 +1,85 @@
+package com.example.scoreboard;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import java.util.List;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * A reader builds a summary while one match starts and another finishes. The reader may see any combination of the
+ * two changes, but each entry must appear at most once, carry the score it actually had, and be in summary order.
+ * <p>
+ * r1 encodes the summary observed by the reader: bit 0 is set if TeamA-TeamB (1-0) was present, bit 1 if TeamC-TeamD
+ * (0-0) was present, and -1 marks a torn, duplicated or misordered summary. r2 encodes the final summary the same way.
+ */
+@JCStressTest
+@Description("getSummary racing startMatch and finishMatch must return one of the valid sets of entries.")
+@Outcome(id = "0, 2", expect = ACCEPTABLE, desc = "Reader saw the finish but not the start.")
+@Outcome(id = "1, 2", expect = ACCEPTABLE, desc = "Reader saw neither change.")
+@Outcome(id = "2, 2", expect = ACCEPTABLE, desc = "Reader saw both changes.")
+@Outcome(id = "3, 2", expect = ACCEPTABLE, desc = "Reader saw the start but not the finish.")
+@Outcome(expect = FORBIDDEN, desc = "Torn, duplicated or misordered summary, or wrong final board.")
+@State
+public class SummaryStructureRaceTest {
+
+    private final Scoreboard scoreboard = new Scoreboard();
+
+    public SummaryStructureRaceTest() {
+        scoreboard.startMatch("TeamA", "TeamB");
+        scoreboard.updateScore("TeamA", "TeamB", 1, 0);
+    }
+
+    @Actor
+    public void start() {
+        scoreboard.startMatch("TeamC", "TeamD");
+    }
+
+    @Actor
+    public void finish() {
+        scoreboard.finishMatch("TeamA", "TeamB");
+    }
+
+    @Actor
+    public void read(II_Result r) {
+        r.r1 = encode(scoreboard.getSummary());
+    }
+
+    @Arbiter
+    public void arbiter(II_Result r) {
+        r.r2 = encode(scoreboard.getSummary());
+    }
+
+    private static int encode(List<MatchSnapshot> summary) {
+        for (int i = 1; i < summary.size(); i++) {
+            if (Match.SUMMARY_ORDER.compare((Match) summary.get(i - 1), (Match) summary.get(i)) > 0) {
+                return -1;
+            }
+        }
+        int seen = 0;
+        for (MatchSnapshot match : summary) {
+            int bit;
+            if (match.homeTeam().equals("TeamA") && match.awayTeam().equals("TeamB")
+                    && match.homeScore() == 1 && match.awayScore() == 0) {
+                bit = 1;
+            } else if (match.homeTeam().equals("TeamC") && match.awayTeam().equals("TeamD")
+                    && match.homeScore() == 0 && match.awayScore() == 0) {
+                bit = 2;
+            } else {
+                return -1;
+            }
+            if ((seen & bit) != 0) {
+                return -1;
+            }
+            seen |= bit;
+        }
+        return seen;
+    }
+}
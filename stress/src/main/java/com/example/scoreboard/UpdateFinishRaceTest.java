@@ -0,0 +1,52 @@
+package com.example.scoreboard;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZII_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * A score update races with finishing the same match. Whatever the interleaving, the finished match must not
+ * reappear on the board or leave goals behind in the aggregates.
+ */
+@JCStressTest
+@Description("updateScore racing finishMatch must leave an empty, consistent board.")
+@Outcome(id = "true, 0, 0", expect = ACCEPTABLE, desc = "Update applied before the match was finished.")
+@Outcome(id = "false, 0, 0", expect = ACCEPTABLE, desc = "Update rejected, the match was already finished.")
+@Outcome(expect = FORBIDDEN, desc = "Finished match resurrected or aggregates out of sync.")
+@State
+public class UpdateFinishRaceTest {
+
+    private final Scoreboard scoreboard = new Scoreboard();
+
+    public UpdateFinishRaceTest() {
+        scoreboard.startMatch("TeamA", "TeamB");
+    }
+
+    @Actor
+    public void update(ZII_Result r) {
+        try {
+            scoreboard.updateScore("TeamA", "TeamB", 1, 2);
+            r.r1 = true;
+        } catch (IllegalArgumentException e) {
+            r.r1 = false;
+        }
+    }
+
+    @Actor
+    public void finish() {
+        scoreboard.finishMatch("TeamA", "TeamB");
+    }
+
+    @Arbiter
+    public void arbiter(ZII_Result r) {
+        r.r2 = scoreboard.getSummary().size();
+        r.r3 = (int) scoreboard.getTotalGoals();
+    }
+}